@@ -1,6 +1,7 @@
 package com.interview.time_tracking.controller;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -15,14 +16,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import com.interview.time_tracking.dao.StampRecordRepository;
 import com.interview.time_tracking.model.StampRecord;
+import com.interview.time_tracking.model.StampRecordPage;
 import com.interview.time_tracking.service.StampRecordService;
+import com.interview.time_tracking.sharding.ShardRouter;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -33,10 +38,13 @@ class StampRecordController {
 
     StampRecordService stampRecordService;
     StampRecordRepository stampRecordRepository;
+    ShardRouter shardRouter;
 
-    private StampRecordController(StampRecordService stampRecordService, StampRecordRepository stampRecordRepository) {
+    private StampRecordController(StampRecordService stampRecordService, StampRecordRepository stampRecordRepository,
+            ShardRouter shardRouter) {
         this.stampRecordService = stampRecordService;
         this.stampRecordRepository = stampRecordRepository;
+        this.shardRouter = shardRouter;
     }
 
     @GetMapping("/all/{userId}")
@@ -47,16 +55,40 @@ class StampRecordController {
         content = { @Content(
             mediaType = "application/json", 
             schema = @Schema(
-                implementation = Page.class))})
-    public ResponseEntity<Page<StampRecord>> getAllByUserId(@PathVariable Long userId, Pageable pageable) {
-        Page<StampRecord> pageOfStampRecords = stampRecordRepository.findByUserId(
+                implementation = StampRecordPage.class))})
+    public ResponseEntity<StampRecordPage> getAllByUserId(@PathVariable Long userId, Pageable pageable) {
+        Page<StampRecord> pageOfStampRecords = shardRouter.onUserShard(
                 userId,
-                PageRequest.of(
-                        pageable.getPageNumber(),
-                        pageable.getPageSize(),
-                        pageable.getSortOr(Sort.by(Sort.Direction.DESC, "checkInInMilliseconds"))));
+                () -> stampRecordRepository.findByUserId(
+                        userId,
+                        PageRequest.of(
+                                pageable.getPageNumber(),
+                                pageable.getPageSize(),
+                                pageable.getSortOr(Sort.by(Sort.Direction.DESC, "checkInInMilliseconds")))));
+
+        return ResponseEntity.ok(StampRecordPage.of(pageOfStampRecords));
+    }
 
-        return ResponseEntity.ok(pageOfStampRecords);
+    @GetMapping("/export")
+    @Operation(
+        summary = "Export the StampRecords of all Users with a check-in within a date range",
+        description = "- The shards are queried in parallel")
+    @ApiResponse(
+        responseCode = "200", 
+        description = "Found the StampRecords within the date range",
+        content = { @Content(
+            mediaType = "application/json", 
+            array = @ArraySchema(
+                schema = @Schema(
+                    implementation = StampRecord.class)))})
+    public ResponseEntity<List<StampRecord>> exportAllWithCheckinDateBetween(
+            @RequestParam Long startInMilliseconds,
+            @RequestParam Long endInMilliseconds) {
+        List<StampRecord> stampRecordsInDateRange = stampRecordService.getAllStampRecordsWithCheckinDateBetween(
+                startInMilliseconds,
+                endInMilliseconds);
+
+        return ResponseEntity.ok(stampRecordsInDateRange);
     }
 
     @GetMapping("/{recordId}")
@@ -72,7 +104,9 @@ class StampRecordController {
         responseCode = "404", 
         description = "Did not find the StampRecord")
     public ResponseEntity<StampRecord> getById(@PathVariable Long recordId) {
-        Optional<StampRecord> optionalStampRecord = stampRecordRepository.findById(recordId);
+        Optional<StampRecord> optionalStampRecord = shardRouter.onRecordShard(
+                recordId,
+                () -> stampRecordRepository.findById(recordId));
 
         if (optionalStampRecord.isEmpty()) {
             return ResponseEntity.notFound().build();
@@ -96,14 +130,15 @@ class StampRecordController {
         responseCode = "400", 
         description = "The supplied StampRecord is not valid or User is already checked-in")
     public ResponseEntity<Void> create(@RequestBody StampRecord newStampRecord, UriComponentsBuilder ucb) {
-        boolean isRecordStampInvalid = !newStampRecord.isValidStampRecord();
-        boolean isUserAlreadyCheckedIn = stampRecordService.isStampedInAlready(newStampRecord.getUserId());
-
-        if (isRecordStampInvalid || isUserAlreadyCheckedIn) {
+        // Validate first, a StampRecord without a userId can't be routed to a shard
+        if (!newStampRecord.isValidStampRecord()
+                || stampRecordService.isStampedInAlready(newStampRecord.getUserId())) {
             return ResponseEntity.badRequest().build();
         }
 
-        StampRecord savedStampRecord = stampRecordRepository.save(newStampRecord);
+        StampRecord savedStampRecord = shardRouter.onUserShard(
+                newStampRecord.getUserId(),
+                () -> stampRecordRepository.save(newStampRecord));
         URI locationOfNewStampRecord = ucb
                 .path("stamp-records/{id}")
                 .buildAndExpand(savedStampRecord.getId())
@@ -114,35 +149,46 @@ class StampRecordController {
     @PutMapping("/{recordId}")
     @Operation(
         summary = "Update a StampRecord", 
-        description = "- Supplied StampRecord Must be valid")
+        description = "- Supplied StampRecord Must be valid\n- StampRecord can't be moved to a User on another shard")
     @ApiResponse(
         responseCode = "204", 
         description = "Updated the StampRecord")
     @ApiResponse(
         responseCode = "400", 
-        description = "The supplied StampRecord is not valid")
+        description = "The supplied StampRecord is not valid or would move the StampRecord to another shard")
     @ApiResponse(
         responseCode = "404", 
         description = "The StampRecord does not exist")
     public ResponseEntity<StampRecord> update(@PathVariable Long recordId,
             @RequestBody StampRecord changedStampRecord) {
-        Optional<StampRecord> optionalStampRecord = stampRecordRepository.findById(recordId);
-
-        if (optionalStampRecord.isEmpty()) {
-            return ResponseEntity.notFound().build();
-        }
-
-        if (!changedStampRecord.isValidStampRecord()) {
+        // The id of a record encodes its shard, so it can only be reassigned to Users of the same shard
+        boolean isUpdatable = changedStampRecord.isValidStampRecord()
+                && shardRouter.shardOfUser(changedStampRecord.getUserId()) == shardRouter.shardOfRecord(recordId);
+
+        // Rejected updates look the record up once, so unknown records still answer 404 before 400
+        if (!isUpdatable) {
+            boolean doesStampRecordExist = shardRouter.onRecordShard(
+                    recordId,
+                    () -> stampRecordRepository.existsById(recordId));
+
+            if (!doesStampRecordExist) {
+                return ResponseEntity.notFound().build();
+            }
             return ResponseEntity.badRequest().build();
         }
 
-        StampRecord newStampRecord = new StampRecord(
+        // A single conditional statement, so there's no gap between checking for and updating the record
+        int updatedStampRecords = shardRouter.onRecordShard(
                 recordId,
-                changedStampRecord.getUserId(),
-                changedStampRecord.getCheckInInMilliseconds(),
-                changedStampRecord.getCheckOutInMilliseconds());
+                () -> stampRecordRepository.updateIfExists(
+                        recordId,
+                        changedStampRecord.getUserId(),
+                        changedStampRecord.getCheckInInMilliseconds(),
+                        changedStampRecord.getCheckOutInMilliseconds()));
 
-        stampRecordRepository.save(newStampRecord);
+        if (updatedStampRecords == 0) {
+            return ResponseEntity.notFound().build();
+        }
 
         return ResponseEntity.noContent().build();
     }
@@ -156,11 +202,14 @@ class StampRecordController {
         responseCode = "404", 
         description = "The StampRecord does not exist")
     public ResponseEntity<Void> delete(@PathVariable Long recordId) {
-        if (!stampRecordRepository.existsById(recordId)) {
+        int deletedStampRecords = shardRouter.onRecordShard(
+                recordId,
+                () -> stampRecordRepository.deleteIfExists(recordId));
+
+        if (deletedStampRecords == 0) {
             return ResponseEntity.notFound().build();
         }
 
-        stampRecordRepository.deleteById(recordId);
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -4,8 +4,11 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jdbc.repository.query.Modifying;
+import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 
 import com.interview.time_tracking.model.StampRecord;
 
@@ -19,4 +22,21 @@ public interface StampRecordRepository extends
         List<StampRecord> findByUserIdAndCheckInInMillisecondsBetween(Long stampUserId, Long startTimestamp,
                         Long endTimestamp);
 
+        List<StampRecord> findByCheckInInMillisecondsBetween(Long startTimestamp, Long endTimestamp);
+
+        // The conditional writes return the number of affected rows, so 0 means the record does not exist
+        @Modifying
+        @Query("""
+                        UPDATE stamp_record
+                        SET user_id = :userId,
+                            check_in_in_milliseconds = :checkIn,
+                            check_out_in_milliseconds = :checkOut
+                        WHERE id = :id""")
+        int updateIfExists(@Param("id") Long id, @Param("userId") Long stampUserId, @Param("checkIn") Long checkIn,
+                        @Param("checkOut") Long checkOut);
+
+        @Modifying
+        @Query("DELETE FROM stamp_record WHERE id = :id")
+        int deleteIfExists(@Param("id") Long id);
+
 }
@@ -0,0 +1,33 @@
+package com.interview.time_tracking.model;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class StampRecordPage {
+
+    private List<StampRecord> content;
+
+    private int number;
+
+    private int size;
+
+    private long totalElements;
+
+    private int totalPages;
+
+    public static StampRecordPage of(Page<StampRecord> pageOfStampRecords) {
+        return new StampRecordPage(
+                pageOfStampRecords.getContent(),
+                pageOfStampRecords.getNumber(),
+                pageOfStampRecords.getSize(),
+                pageOfStampRecords.getTotalElements(),
+                pageOfStampRecords.getTotalPages());
+    }
+
+}
@@ -2,6 +2,7 @@ package com.interview.time_tracking.service;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Comparator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -13,21 +14,26 @@ import org.springframework.stereotype.Service;
 import com.interview.time_tracking.dao.StampRecordRepository;
 import com.interview.time_tracking.model.BreaktimeRules;
 import com.interview.time_tracking.model.StampRecord;
+import com.interview.time_tracking.sharding.ShardRouter;
 
 @Service
 public class StampRecordService {
 
     private final StampRecordRepository stampRecordRepository;
+    private final ShardRouter shardRouter;
 
-    private StampRecordService(StampRecordRepository stampRecordRepository) {
+    private StampRecordService(StampRecordRepository stampRecordRepository, ShardRouter shardRouter) {
         this.stampRecordRepository = stampRecordRepository;
+        this.shardRouter = shardRouter;
     }
 
     public boolean isStampedInAlready(Long stampUserId) {
-        List<StampRecord> latestStampRecords = stampRecordRepository.findByUserId(
+        List<StampRecord> latestStampRecords = shardRouter.onUserShard(
                 stampUserId,
-                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "checkInInMilliseconds")))
-                .getContent();
+                () -> stampRecordRepository.findByUserId(
+                        stampUserId,
+                        PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "checkInInMilliseconds")))
+                        .getContent());
 
         if (latestStampRecords.isEmpty()) {
             return false;
@@ -39,15 +45,32 @@ public class StampRecordService {
 
     public List<StampRecord> getStampRecordsWithCheckinDateBetween(Long stampUserId, Long startDateinMilliseconds,
             Long endDateInMilliseconds) {
-        List<StampRecord> stampRecordsInDateRange = stampRecordRepository
-                .findByUserIdAndCheckInInMillisecondsBetween(stampUserId, startDateinMilliseconds,
-                        endDateInMilliseconds);
+        List<StampRecord> stampRecordsInDateRange = shardRouter.onUserShard(
+                stampUserId,
+                () -> stampRecordRepository.findByUserIdAndCheckInInMillisecondsBetween(stampUserId,
+                        startDateinMilliseconds, endDateInMilliseconds));
 
         return stampRecordsInDateRange;
     }
 
+    // Org-wide reports span all users and therefore all shards, which are queried in parallel. The results
+    // are sorted after merging, so the order doesn't depend on the number of shards
+    public List<StampRecord> getAllStampRecordsWithCheckinDateBetween(Long startDateinMilliseconds,
+            Long endDateInMilliseconds) {
+        List<StampRecord> stampRecordsInDateRange = shardRouter.onAllShards(
+                () -> stampRecordRepository.findByCheckInInMillisecondsBetween(startDateinMilliseconds,
+                        endDateInMilliseconds));
+
+        return stampRecordsInDateRange.stream()
+                .sorted(Comparator.comparing(StampRecord::getCheckInInMilliseconds)
+                        .thenComparing(StampRecord::getId))
+                .toList();
+    }
+
     public Duration calculateCheckedInTime(Long stampRecordId) throws NoSuchElementException {
-        Optional<StampRecord> optionalStampRecord = this.stampRecordRepository.findById(stampRecordId);
+        Optional<StampRecord> optionalStampRecord = shardRouter.onRecordShard(
+                stampRecordId,
+                () -> this.stampRecordRepository.findById(stampRecordId));
 
         if (optionalStampRecord.isEmpty()) {
             throw new NoSuchElementException(String.format("StampRecord with Id %d not found", stampRecordId));
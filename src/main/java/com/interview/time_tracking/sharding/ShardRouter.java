@@ -0,0 +1,116 @@
+package com.interview.time_tracking.sharding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ShardRouter implements DisposableBean {
+
+    private static final ThreadLocal<Integer> CURRENT_SHARD = new ThreadLocal<>();
+
+    private final int shardCount;
+    private final ExecutorService scatterGatherExecutor;
+
+    public ShardRouter(@Value("${time-tracking.sharding.shard-count:1}") int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException(String.format("Shard count must be positive but was %d", shardCount));
+        }
+
+        this.shardCount = shardCount;
+        this.scatterGatherExecutor = shardCount > 1 ? Executors.newFixedThreadPool(shardCount) : null;
+    }
+
+    static Integer currentShard() {
+        return CURRENT_SHARD.get();
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int shardOfUser(Long stampUserId) {
+        if (stampUserId == null) {
+            throw new IllegalArgumentException("Can't route a StampRecord without a userId");
+        }
+
+        // Spread consecutive user ids evenly, the multiplier is the 64-bit golden ratio
+        long mixedHash = Long.hashCode(stampUserId) * 0x9E3779B97F4A7C15L;
+        return (int) Math.floorMod(mixedHash >>> 32, (long) shardCount);
+    }
+
+    public int shardOfRecord(Long stampRecordId) {
+        if (stampRecordId == null) {
+            throw new IllegalArgumentException("Can't route a StampRecord without an id");
+        }
+
+        // Every shard hands out ids congruent to its own index, see ShardingConfiguration
+        return (int) Math.floorMod(stampRecordId, (long) shardCount);
+    }
+
+    public <T> T onUserShard(Long stampUserId, Supplier<T> operation) {
+        return onShard(shardOfUser(stampUserId), operation);
+    }
+
+    public <T> T onRecordShard(Long stampRecordId, Supplier<T> operation) {
+        return onShard(shardOfRecord(stampRecordId), operation);
+    }
+
+    public <T> List<T> onAllShards(Supplier<List<T>> operation) {
+        if (shardCount == 1) {
+            return onShard(0, operation);
+        }
+
+        List<CompletableFuture<List<T>>> pendingResults = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            final int targetShard = shard;
+            pendingResults.add(CompletableFuture.supplyAsync(
+                    () -> onShard(targetShard, operation),
+                    scatterGatherExecutor));
+        }
+
+        List<T> gatheredResults = new ArrayList<>();
+        try {
+            for (CompletableFuture<List<T>> pendingResult : pendingResults) {
+                gatheredResults.addAll(pendingResult.join());
+            }
+        } catch (CompletionException exception) {
+            // Surface the original exception of the failed shard, e.g. a DataAccessException
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+        return gatheredResults;
+    }
+
+    private <T> T onShard(int shard, Supplier<T> operation) {
+        Integer previousShard = CURRENT_SHARD.get();
+        CURRENT_SHARD.set(shard);
+        try {
+            return operation.get();
+        } finally {
+            if (previousShard == null) {
+                CURRENT_SHARD.remove();
+            } else {
+                CURRENT_SHARD.set(previousShard);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (scatterGatherExecutor != null) {
+            scatterGatherExecutor.shutdown();
+        }
+    }
+
+}
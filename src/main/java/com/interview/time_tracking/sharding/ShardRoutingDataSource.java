@@ -0,0 +1,32 @@
+package com.interview.time_tracking.sharding;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+class ShardRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer currentShard = ShardRouter.currentShard();
+
+        if (currentShard == null) {
+            throw new IllegalStateException(
+                    "No shard bound to the current thread, route the call through the ShardRouter");
+        }
+
+        return currentShard;
+    }
+
+    @Override
+    public void destroy() {
+        for (DataSource shardDataSource : getResolvedDataSources().values()) {
+            if (shardDataSource instanceof EmbeddedDatabase embeddedDatabase) {
+                embeddedDatabase.shutdown();
+            }
+        }
+    }
+
+}
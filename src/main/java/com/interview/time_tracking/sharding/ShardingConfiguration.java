@@ -0,0 +1,60 @@
+package com.interview.time_tracking.sharding;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+@Configuration
+@ConditionalOnExpression("${time-tracking.sharding.shard-count:1} > 1")
+class ShardingConfiguration {
+
+    @Bean
+    DataSource dataSource(ShardRouter shardRouter) {
+        int shardCount = shardRouter.getShardCount();
+
+        Map<Object, Object> shards = new HashMap<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            EmbeddedDatabase shardDataSource = new EmbeddedDatabaseBuilder()
+                    .generateUniqueName(true)
+                    .setType(EmbeddedDatabaseType.H2)
+                    .addScript("schema.sql")
+                    .build();
+            initializeShardIds(shardDataSource, shard, shardCount);
+            shards.put(shard, shardDataSource);
+        }
+
+        // There is no default shard, calls that bypass the ShardRouter fail instead of seeing a part of the data
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(shards);
+        routingDataSource.setLenientFallback(false);
+        routingDataSource.afterPropertiesSet();
+        return routingDataSource;
+    }
+
+    // Resolving the dialect would need a connection outside of any shard
+    @Bean
+    Dialect jdbcDialect() {
+        return H2Dialect.INSTANCE;
+    }
+
+    private void initializeShardIds(DataSource shardDataSource, int shard, int shardCount) {
+        // Ids of a shard are congruent to its index, so ids stay globally unique and point back to their shard
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(shardDataSource);
+        jdbcTemplate.execute(String.format(
+                "ALTER TABLE stamp_record ALTER COLUMN id RESTART WITH %d", shard + shardCount));
+        jdbcTemplate.execute(String.format(
+                "ALTER TABLE stamp_record ALTER COLUMN id SET INCREMENT BY %d", shardCount));
+    }
+
+}
@@ -5,6 +5,8 @@ CREATE TABLE stamp_record (
     check_out_in_milliseconds   BIGINT
 );
 
+CREATE INDEX stamp_record_user_id ON stamp_record (user_id);
+
 CREATE TABLE stamp_user (
     id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, 
     user_name   VARCHAR(255)
@@ -0,0 +1,83 @@
+package com.interview.time_tracking;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.interview.time_tracking.dao.StampRecordRepository;
+import com.interview.time_tracking.model.StampRecord;
+
+// Run with ./gradlew benchmark
+@Tag("benchmark")
+public class ConditionalWriteLatencyBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 20000;
+    private static final int MEASUREMENT_ITERATIONS = 50000;
+
+    @Test
+    void compareLatencyOfSeparateAndConditionalWrites() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TimeTrackingApplication.class)
+                .web(WebApplicationType.NONE)
+                .run()) {
+            StampRecordRepository stampRecordRepository = context.getBean(StampRecordRepository.class);
+
+            measureUpdates(stampRecordRepository, WARMUP_ITERATIONS);
+            measureDeletes(stampRecordRepository, WARMUP_ITERATIONS);
+            long[] updateNanos = measureUpdates(stampRecordRepository, MEASUREMENT_ITERATIONS);
+            long[] deleteNanos = measureDeletes(stampRecordRepository, MEASUREMENT_ITERATIONS);
+
+            System.out.printf("update, findById + save:         %6.1f us%n", microsPerOperation(updateNanos[0]));
+            System.out.printf("update, updateIfExists:          %6.1f us%n", microsPerOperation(updateNanos[1]));
+            System.out.printf("delete, existsById + deleteById: %6.1f us%n", microsPerOperation(deleteNanos[0]));
+            System.out.printf("delete, deleteIfExists:          %6.1f us%n", microsPerOperation(deleteNanos[1]));
+        }
+    }
+
+    private long[] measureUpdates(StampRecordRepository stampRecordRepository, int iterations) {
+        long separateNanos = 0;
+        long conditionalNanos = 0;
+
+        for (long iteration = 0; iteration < iterations; iteration++) {
+            long start = System.nanoTime();
+            if (stampRecordRepository.findById(1005L).isPresent()) {
+                stampRecordRepository.save(new StampRecord(1005L, 1L, iteration, iteration + 1));
+            }
+            separateNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            stampRecordRepository.updateIfExists(1005L, 1L, iteration, iteration + 1);
+            conditionalNanos += System.nanoTime() - start;
+        }
+
+        return new long[] { separateNanos, conditionalNanos };
+    }
+
+    private long[] measureDeletes(StampRecordRepository stampRecordRepository, int iterations) {
+        long separateNanos = 0;
+        long conditionalNanos = 0;
+
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            Long firstId = stampRecordRepository.save(new StampRecord(null, 2L, 50L, 100L)).getId();
+            Long secondId = stampRecordRepository.save(new StampRecord(null, 2L, 50L, 100L)).getId();
+
+            long start = System.nanoTime();
+            if (stampRecordRepository.existsById(firstId)) {
+                stampRecordRepository.deleteById(firstId);
+            }
+            separateNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            stampRecordRepository.deleteIfExists(secondId);
+            conditionalNanos += System.nanoTime() - start;
+        }
+
+        return new long[] { separateNanos, conditionalNanos };
+    }
+
+    private double microsPerOperation(long nanos) {
+        return nanos / 1000.0 / MEASUREMENT_ITERATIONS;
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.interview.time_tracking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.interview.time_tracking.dao.StampRecordRepository;
+import com.interview.time_tracking.model.StampRecord;
+
+// Counts the statements sent to the database, every statement is one round trip
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ConditionalWriteRoundTripTests {
+
+	private static final AtomicInteger executedStatements = new AtomicInteger();
+
+	@TestConfiguration
+	static class StatementCountingConfiguration {
+
+		@Bean
+		static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					return bean instanceof DataSource dataSource ? new StatementCountingDataSource(dataSource) : bean;
+				}
+			};
+		}
+
+	}
+
+	static class StatementCountingDataSource extends DelegatingDataSource {
+
+		StatementCountingDataSource(DataSource targetDataSource) {
+			super(targetDataSource);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			Connection connection = super.getConnection();
+			return (Connection) Proxy.newProxyInstance(
+					Connection.class.getClassLoader(),
+					new Class<?>[] { Connection.class },
+					(proxy, method, arguments) -> {
+						if (method.getName().startsWith("prepare") || method.getName().equals("createStatement")) {
+							executedStatements.incrementAndGet();
+						}
+						try {
+							return method.invoke(connection, arguments);
+						} catch (InvocationTargetException exception) {
+							throw exception.getCause();
+						}
+					});
+		}
+
+	}
+
+	@Autowired
+	TestRestTemplate restTemplate;
+
+	@Autowired
+	StampRecordRepository stampRecordRepository;
+
+	@BeforeEach
+	void resetStatementCount() {
+		executedStatements.set(0);
+	}
+
+	@Test
+	@DirtiesContext
+	void shouldNeedTwoStatementsToCheckAndUpdateSeparately() {
+		if (stampRecordRepository.findById(1005L).isPresent()) {
+			stampRecordRepository.save(new StampRecord(1005L, 1L, 50L, 100L));
+		}
+
+		assertEquals(2, executedStatements.get());
+	}
+
+	@Test
+	@DirtiesContext
+	void shouldUpdateWithASingleStatement() {
+		HttpEntity<StampRecord> request = new HttpEntity<>(new StampRecord(null, 1L, 50L, 100L));
+		ResponseEntity<Void> response = restTemplate.exchange("/stamp-records/1005", HttpMethod.PUT, request,
+				Void.class);
+
+		assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+		assertEquals(1, executedStatements.get());
+	}
+
+	@Test
+	void shouldRejectAnInvalidUpdateWithASingleStatement() {
+		HttpEntity<StampRecord> request = new HttpEntity<>(new StampRecord(null, 1L, null, 100L));
+		ResponseEntity<Void> response = restTemplate.exchange("/stamp-records/2000", HttpMethod.PUT, request,
+				Void.class);
+
+		assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+		assertEquals(1, executedStatements.get());
+	}
+
+	@Test
+	@DirtiesContext
+	void shouldNeedTwoStatementsToCheckAndDeleteSeparately() {
+		if (stampRecordRepository.existsById(1004L)) {
+			stampRecordRepository.deleteById(1004L);
+		}
+
+		assertEquals(2, executedStatements.get());
+	}
+
+	@Test
+	@DirtiesContext
+	void shouldDeleteWithASingleStatement() {
+		ResponseEntity<Void> response = restTemplate.exchange("/stamp-records/1004", HttpMethod.DELETE, null,
+				Void.class);
+
+		assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+		assertEquals(1, executedStatements.get());
+	}
+
+	@Test
+	void shouldNotConditionallyWriteAStampRecordThatDoesNotExist() {
+		assertEquals(0, stampRecordRepository.updateIfExists(2000L, 2L, 50L, 100L));
+		assertEquals(0, stampRecordRepository.deleteIfExists(2000L));
+		assertEquals(2, executedStatements.get());
+	}
+
+}
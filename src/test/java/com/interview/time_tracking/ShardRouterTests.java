@@ -0,0 +1,50 @@
+package com.interview.time_tracking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataRetrievalFailureException;
+
+import com.interview.time_tracking.sharding.ShardRouter;
+
+public class ShardRouterTests {
+
+    private final ShardRouter shardRouter = new ShardRouter(4);
+
+    @AfterEach
+    public void tearDown() {
+        shardRouter.destroy();
+    }
+
+    @Test
+    void shouldRouteStampRecordIdsToTheShardOfTheirIndex() {
+        assertEquals(0, shardRouter.shardOfRecord(8L));
+        assertEquals(1, shardRouter.shardOfRecord(5L));
+        assertEquals(3, shardRouter.shardOfRecord(1003L));
+    }
+
+    @Test
+    void shouldNotRouteWithoutIds() {
+        assertThrows(IllegalArgumentException.class, () -> shardRouter.shardOfUser(null));
+        assertThrows(IllegalArgumentException.class, () -> shardRouter.shardOfRecord(null));
+    }
+
+    @Test
+    void shouldGatherResultsOfAllShards() {
+        List<Long> gatheredResults = shardRouter.onAllShards(() -> List.of(1L, 2L));
+
+        assertEquals(8, gatheredResults.size());
+    }
+
+    @Test
+    void shouldRethrowTheExceptionOfAFailedShard() {
+        assertThrows(DataRetrievalFailureException.class, () -> shardRouter.onAllShards(() -> {
+            throw new DataRetrievalFailureException("Shard is unavailable");
+        }));
+    }
+
+}
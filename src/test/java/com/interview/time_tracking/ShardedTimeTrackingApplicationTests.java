@@ -0,0 +1,212 @@
+package com.interview.time_tracking;
+
+import com.interview.time_tracking.dao.StampRecordRepository;
+import com.interview.time_tracking.model.StampRecord;
+import com.interview.time_tracking.sharding.ShardRouter;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import net.minidev.json.JSONArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.NestedRuntimeException;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = "time-tracking.sharding.shard-count=4")
+class ShardedTimeTrackingApplicationTests {
+
+	@Autowired
+	TestRestTemplate restTemplate;
+
+	@Autowired
+	ShardRouter shardRouter;
+
+	@Autowired
+	StampRecordRepository stampRecordRepository;
+
+	private Long createStampRecord(Long userId, Long checkIn, Long checkOut) {
+		StampRecord newStampRecord = new StampRecord(null, userId, checkIn, checkOut);
+		ResponseEntity<Void> createResponse = restTemplate.postForEntity("/stamp-records", newStampRecord, Void.class);
+		assertEquals(HttpStatus.CREATED, createResponse.getStatusCode());
+
+		URI locationOfNewStampRecord = createResponse.getHeaders().getLocation();
+		String path = locationOfNewStampRecord.getPath();
+		return Long.valueOf(path.substring(path.lastIndexOf('/') + 1));
+	}
+
+	private long userIdOnShard(int shard, long firstCandidate) {
+		long userId = firstCandidate;
+		while (shardRouter.shardOfUser(userId) != shard) {
+			userId++;
+		}
+		return userId;
+	}
+
+	@Test
+	void shouldStoreStampRecordsOnTheShardOfTheirUser() {
+		for (long userId = 100L; userId < 108L; userId++) {
+			Long recordId = createStampRecord(userId, 50L, 100L);
+			assertEquals(shardRouter.shardOfUser(userId), shardRouter.shardOfRecord(recordId));
+
+			ResponseEntity<String> getResponse = restTemplate.getForEntity("/stamp-records/" + recordId, String.class);
+			assertEquals(HttpStatus.OK, getResponse.getStatusCode());
+
+			DocumentContext documentContext = JsonPath.parse(getResponse.getBody());
+			Number storedUserId = documentContext.read("$.userId");
+			assertEquals(userId, storedUserId.longValue());
+		}
+	}
+
+	@Test
+	void shouldGenerateGloballyUniqueStampRecordIds() {
+		Set<Long> recordIds = new HashSet<>();
+		for (long userId = 200L; userId < 216L; userId++) {
+			recordIds.add(createStampRecord(userId, 50L, 100L));
+			recordIds.add(createStampRecord(userId, 150L, 200L));
+		}
+
+		assertEquals(32, recordIds.size());
+	}
+
+	@Test
+	void shouldOnlyReturnStampRecordsOfTheRequestedUser() {
+		createStampRecord(300L, 50L, 100L);
+		createStampRecord(300L, 150L, 200L);
+		createStampRecord(301L, 50L, 100L);
+
+		ResponseEntity<String> response = restTemplate.getForEntity("/stamp-records/all/300", String.class);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+
+		DocumentContext documentContext = JsonPath.parse(response.getBody());
+		JSONArray read = documentContext.read("$.content");
+		assertEquals(2, read.size());
+	}
+
+	@Test
+	void shouldGatherStampRecordsFromAllShards() {
+		long rangeStart = 1000000L;
+		long rangeEnd = 2000000L;
+		for (long userId = 400L; userId < 408L; userId++) {
+			createStampRecord(userId, rangeStart + userId, rangeEnd);
+		}
+
+		ResponseEntity<String> response = restTemplate.getForEntity(
+				"/stamp-records/export?startInMilliseconds={start}&endInMilliseconds={end}", String.class,
+				rangeStart, rangeEnd);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+
+		DocumentContext documentContext = JsonPath.parse(response.getBody());
+		JSONArray read = documentContext.read("$[*].userId");
+		assertEquals(8, read.size());
+
+		// The merged StampRecords of all shards are ordered by their check-in
+		for (int index = 0; index < read.size(); index++) {
+			assertEquals(400L + index, ((Number) read.get(index)).longValue());
+		}
+	}
+
+	@Test
+	void shouldNotRouteRepositoryCallsOutsideOfAShard() {
+		NestedRuntimeException exception = assertThrows(NestedRuntimeException.class,
+				() -> stampRecordRepository.count());
+		assertInstanceOf(IllegalStateException.class, exception.getMostSpecificCause());
+	}
+
+	@Test
+	void shouldUpdateAStampRecordOnItsShard() {
+		long userId = userIdOnShard(3, 800L);
+		long otherUserIdOnSameShard = userIdOnShard(3, userId + 1);
+		Long recordId = createStampRecord(userId, 50L, 100L);
+
+		StampRecord stampRecordUpdate = new StampRecord(null, otherUserIdOnSameShard, 60L, 120L);
+		HttpEntity<StampRecord> request = new HttpEntity<>(stampRecordUpdate);
+		ResponseEntity<Void> response = restTemplate.exchange("/stamp-records/" + recordId, HttpMethod.PUT, request,
+				Void.class);
+		assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+
+		ResponseEntity<String> getResponse = restTemplate.getForEntity("/stamp-records/" + recordId, String.class);
+		DocumentContext documentContext = JsonPath.parse(getResponse.getBody());
+		Number updatedUserId = documentContext.read("$.userId");
+		Number updatedCheckIn = documentContext.read("$.checkInInMilliseconds");
+		assertEquals(otherUserIdOnSameShard, updatedUserId.longValue());
+		assertEquals(60L, updatedCheckIn.longValue());
+	}
+
+	@Test
+	void shouldNotUpdateAStampRecordThatDoesNotExistOnItsShard() {
+		// 1000003 would be handed out by shard 3, the tests create far fewer records
+		long userIdOnSameShard = userIdOnShard(3, 900L);
+
+		StampRecord stampRecordUpdate = new StampRecord(null, userIdOnSameShard, 50L, 100L);
+		HttpEntity<StampRecord> request = new HttpEntity<>(stampRecordUpdate);
+		ResponseEntity<Void> response = restTemplate.exchange("/stamp-records/1000003", HttpMethod.PUT, request,
+				Void.class);
+		assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+	}
+
+	@Test
+	void shouldNotDeleteAStampRecordThatDoesNotExistOnItsShard() {
+		ResponseEntity<Void> response = restTemplate.exchange("/stamp-records/1000003", HttpMethod.DELETE, null,
+				Void.class);
+		assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+	}
+
+	@Test
+	void shouldDeleteAStampRecordOnItsShard() {
+		Long recordId = createStampRecord(userIdOnShard(2, 500L), 50L, 100L);
+
+		ResponseEntity<Void> response = restTemplate.exchange("/stamp-records/" + recordId, HttpMethod.DELETE,
+				null, Void.class);
+		assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+
+		ResponseEntity<String> getResponse = restTemplate.getForEntity("/stamp-records/" + recordId, String.class);
+		assertEquals(HttpStatus.NOT_FOUND, getResponse.getStatusCode());
+	}
+
+	@Test
+	void shouldNotMoveAStampRecordToAUserOnAnotherShard() {
+		long userId = 600L;
+		long userIdOnOtherShard = userId + 1;
+		while (shardRouter.shardOfUser(userIdOnOtherShard) == shardRouter.shardOfUser(userId)) {
+			userIdOnOtherShard++;
+		}
+		Long recordId = createStampRecord(userId, 50L, 100L);
+
+		StampRecord stampRecordUpdate = new StampRecord(null, userIdOnOtherShard, 50L, 100L);
+		HttpEntity<StampRecord> request = new HttpEntity<>(stampRecordUpdate);
+		ResponseEntity<Void> response = restTemplate.exchange("/stamp-records/" + recordId, HttpMethod.PUT, request,
+				Void.class);
+		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+	}
+
+	@Test
+	void shouldNotFindAnUnknownStampRecordWhenMovingToAUserOnAnotherShard() {
+		long unknownRecordId = 2000L;
+		long userIdOnOtherShard = 700L;
+		while (shardRouter.shardOfUser(userIdOnOtherShard) == shardRouter.shardOfRecord(unknownRecordId)) {
+			userIdOnOtherShard++;
+		}
+
+		StampRecord stampRecordUpdate = new StampRecord(null, userIdOnOtherShard, 50L, 100L);
+		HttpEntity<StampRecord> request = new HttpEntity<>(stampRecordUpdate);
+		ResponseEntity<Void> response = restTemplate.exchange("/stamp-records/" + unknownRecordId, HttpMethod.PUT,
+				request, Void.class);
+		assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+	}
+
+}
@@ -0,0 +1,126 @@
+package com.interview.time_tracking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.interview.time_tracking.dao.StampRecordRepository;
+import com.interview.time_tracking.model.StampRecord;
+import com.interview.time_tracking.sharding.ShardRouter;
+
+// Run with ./gradlew benchmark
+@Tag("benchmark")
+public class ShardingThroughputBenchmark {
+
+    private static final int THREADS = 16;
+    private static final int USERS = 1000;
+    private static final int RECORDS_PER_USER = 20;
+    private static final int RUNS = 5;
+    private static final long WARMUP_MILLISECONDS = 10000;
+    private static final long MEASUREMENT_MILLISECONDS = 5000;
+
+    @Test
+    void compareThroughputOfOneAndFourShards() throws Exception {
+        double[] oneShardOpsPerSecond = measureOpsPerSecond(1);
+        double[] fourShardsOpsPerSecond = measureOpsPerSecond(4);
+
+        System.out.printf("1 shard:  %s, median %.0f ops/s%n", format(oneShardOpsPerSecond),
+                median(oneShardOpsPerSecond));
+        System.out.printf("4 shards: %s, median %.0f ops/s (%.2fx)%n", format(fourShardsOpsPerSecond),
+                median(fourShardsOpsPerSecond), median(fourShardsOpsPerSecond) / median(oneShardOpsPerSecond));
+    }
+
+    private double[] measureOpsPerSecond(int shardCount) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TimeTrackingApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("time-tracking.sharding.shard-count=" + shardCount)
+                .run()) {
+            ShardRouter shardRouter = context.getBean(ShardRouter.class);
+            StampRecordRepository stampRecordRepository = context.getBean(StampRecordRepository.class);
+
+            loadStampRecords(shardRouter, stampRecordRepository);
+            runFor(WARMUP_MILLISECONDS, shardRouter, stampRecordRepository);
+
+            double[] opsPerSecond = new double[RUNS];
+            for (int run = 0; run < RUNS; run++) {
+                long operations = runFor(MEASUREMENT_MILLISECONDS, shardRouter, stampRecordRepository);
+                opsPerSecond[run] = operations * 1000.0 / MEASUREMENT_MILLISECONDS;
+            }
+            return opsPerSecond;
+        }
+    }
+
+    private void loadStampRecords(ShardRouter shardRouter, StampRecordRepository stampRecordRepository) {
+        for (long userId = 0; userId < USERS; userId++) {
+            List<StampRecord> stampRecords = new ArrayList<>(RECORDS_PER_USER);
+            for (long record = 0; record < RECORDS_PER_USER; record++) {
+                stampRecords.add(new StampRecord(null, userId, record * 100, record * 100 + 50));
+            }
+            final long stampUserId = userId;
+            shardRouter.onUserShard(stampUserId, () -> stampRecordRepository.saveAll(stampRecords));
+        }
+    }
+
+    // Every thread creates a record, lists the latest records of its User and deletes the record again, so the
+    // number of records stays the same during the measurement
+    private long runFor(long milliseconds, ShardRouter shardRouter, StampRecordRepository stampRecordRepository)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(milliseconds);
+        PageRequest latestRecords = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "checkInInMilliseconds"));
+
+        List<Future<Long>> pendingOperations = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            pendingOperations.add(executor.submit(() -> {
+                long operations = 0;
+                while (System.nanoTime() < deadline) {
+                    long userId = ThreadLocalRandom.current().nextLong(USERS);
+                    StampRecord savedStampRecord = shardRouter.onUserShard(userId, () -> stampRecordRepository.save(
+                            new StampRecord(null, userId, System.currentTimeMillis(), null)));
+                    shardRouter.onUserShard(userId, () -> stampRecordRepository.findByUserId(userId, latestRecords));
+                    shardRouter.onRecordShard(savedStampRecord.getId(),
+                            () -> stampRecordRepository.deleteIfExists(savedStampRecord.getId()));
+                    operations += 3;
+                }
+                return operations;
+            }));
+        }
+
+        try {
+            long operations = 0;
+            for (Future<Long> pendingOperation : pendingOperations) {
+                operations += pendingOperation.get();
+            }
+            return operations;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private double median(double[] values) {
+        double[] sortedValues = values.clone();
+        Arrays.sort(sortedValues);
+        return sortedValues[sortedValues.length / 2];
+    }
+
+    private String format(double[] values) {
+        return Arrays.stream(values)
+                .mapToObj(value -> String.format("%.0f", value))
+                .collect(Collectors.joining(" / ", "runs ", " ops/s"));
+    }
+
+}
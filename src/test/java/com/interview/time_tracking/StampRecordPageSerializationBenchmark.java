@@ -0,0 +1,127 @@
+package com.interview.time_tracking;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.time_tracking.model.StampRecord;
+import com.interview.time_tracking.model.StampRecordPage;
+import com.sun.management.ThreadMXBean;
+
+// Run with ./gradlew benchmark
+@Tag("benchmark")
+public class StampRecordPageSerializationBenchmark {
+
+    private static final int[] PAGE_SIZES = { 10, 100, 1000, 10000 };
+    private static final long RECORDS_PER_MEASUREMENT = 2_000_000;
+    private static final int RUNS = 5;
+
+    private final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // Discards the body, so only the serialization itself is measured
+    private final HttpOutputMessage discardingOutputMessage = new HttpOutputMessage() {
+        private final HttpHeaders headers = new HttpHeaders();
+
+        @Override
+        public OutputStream getBody() {
+            return OutputStream.nullOutputStream();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    };
+
+    @Test
+    void compareSlimPageAndPageImplSerialization() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        MappingJackson2HttpMessageConverter jacksonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+
+        System.out.printf("%8s %-10s %14s %20s %16s %14s %16s%n", "records", "page", "median pages/s",
+                "min-max pages/s", "allocated/page", "allocated MB/s", "json bytes/page");
+        for (int pageSize : PAGE_SIZES) {
+            Page<StampRecord> pageOfStampRecords = createPageOfStampRecords(pageSize);
+            StampRecordPage stampRecordPage = StampRecordPage.of(pageOfStampRecords);
+            long iterations = RECORDS_PER_MEASUREMENT / pageSize;
+
+            // Warm up both paths before measuring
+            measure(jacksonConverter, stampRecordPage, iterations);
+            measure(jacksonConverter, pageOfStampRecords, iterations);
+
+            // Alternate between both paths, so drifts of the machine affect them alike
+            long[][] slimMeasurements = new long[RUNS][];
+            long[][] pageImplMeasurements = new long[RUNS][];
+            for (int run = 0; run < RUNS; run++) {
+                slimMeasurements[run] = measure(jacksonConverter, stampRecordPage, iterations);
+                pageImplMeasurements[run] = measure(jacksonConverter, pageOfStampRecords, iterations);
+            }
+
+            report(pageSize, "slim", slimMeasurements, iterations,
+                    objectMapper.writeValueAsBytes(stampRecordPage).length);
+            report(pageSize, "PageImpl", pageImplMeasurements, iterations,
+                    objectMapper.writeValueAsBytes(pageOfStampRecords).length);
+        }
+    }
+
+    private Page<StampRecord> createPageOfStampRecords(int pageSize) {
+        List<StampRecord> stampRecords = new ArrayList<>(pageSize);
+        for (long id = 0; id < pageSize; id++) {
+            stampRecords.add(new StampRecord(id, id % 50, 1737356400000L + id, id % 10 == 0 ? null : 1737378000000L));
+        }
+        PageRequest pageRequest = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "checkInInMilliseconds"));
+        return new PageImpl<>(stampRecords, pageRequest, pageSize * 20L);
+    }
+
+    private long[] measure(HttpMessageConverter<Object> converter, Object body, long iterations) throws IOException {
+        long threadId = Thread.currentThread().getId();
+        long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+
+        for (long iteration = 0; iteration < iterations; iteration++) {
+            converter.write(body, MediaType.APPLICATION_JSON, discardingOutputMessage);
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+        return new long[] { elapsedNanos, allocatedBytes };
+    }
+
+    private void report(int pageSize, String pageName, long[][] measurements, long iterations, int jsonBytes) {
+        double[] pagesPerSecond = new double[measurements.length];
+        double[] allocatedBytesPerPage = new double[measurements.length];
+        for (int run = 0; run < measurements.length; run++) {
+            pagesPerSecond[run] = iterations * 1_000_000_000.0 / measurements[run][0];
+            allocatedBytesPerPage[run] = (double) measurements[run][1] / iterations;
+        }
+        Arrays.sort(pagesPerSecond);
+        Arrays.sort(allocatedBytesPerPage);
+
+        double medianPagesPerSecond = pagesPerSecond[pagesPerSecond.length / 2];
+        double medianAllocatedBytesPerPage = allocatedBytesPerPage[allocatedBytesPerPage.length / 2];
+        double allocatedMegabytesPerSecond = medianPagesPerSecond * medianAllocatedBytesPerPage / 1_000_000;
+        String pagesPerSecondRange = String.format("%.0f-%.0f", pagesPerSecond[0],
+                pagesPerSecond[pagesPerSecond.length - 1]);
+
+        System.out.printf("%8d %-10s %14.0f %20s %16.0f %14.1f %16d%n", pageSize, pageName, medianPagesPerSecond,
+                pagesPerSecondRange, medianAllocatedBytesPerPage, allocatedMegabytesPerSecond, jsonBytes);
+    }
+
+}
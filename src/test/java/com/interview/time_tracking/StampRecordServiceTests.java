@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Page;
@@ -25,6 +26,7 @@ import static org.mockito.BDDMockito.*;
 import com.interview.time_tracking.dao.StampRecordRepository;
 import com.interview.time_tracking.model.StampRecord;
 import com.interview.time_tracking.service.StampRecordService;
+import com.interview.time_tracking.sharding.ShardRouter;
 
 @ExtendWith(MockitoExtension.class)
 public class StampRecordServiceTests {
@@ -32,6 +34,9 @@ public class StampRecordServiceTests {
     @Mock
     StampRecordRepository stampRecordRepository;
 
+    @Spy
+    ShardRouter shardRouter = new ShardRouter(1);
+
     @InjectMocks
     StampRecordService stampRecordService;
 
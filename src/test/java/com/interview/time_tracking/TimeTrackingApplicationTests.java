@@ -10,6 +10,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.net.URI;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -64,6 +66,25 @@ class TimeTrackingApplicationTests {
 		assertEquals(1, read.size());
 	}
 
+	@Test
+	void shouldReturnASlimPageOfStampRecords() {
+		ResponseEntity<String> response = restTemplate.getForEntity("/stamp-records/all/0?page=1&size=2", String.class);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+
+		DocumentContext documentContext = JsonPath.parse(response.getBody());
+		Number number = documentContext.read("$.number");
+		Number size = documentContext.read("$.size");
+		Number totalElements = documentContext.read("$.totalElements");
+		Number totalPages = documentContext.read("$.totalPages");
+		assertEquals(1, number.intValue());
+		assertEquals(2, size.intValue());
+		assertEquals(5, totalElements.longValue());
+		assertEquals(3, totalPages.intValue());
+
+		Map<String, Object> page = documentContext.read("$");
+		assertEquals(Set.of("content", "number", "size", "totalElements", "totalPages"), page.keySet());
+	}
+
 	@Test
 	void shouldReturnASortedPageOfStampRecords() {
 		ResponseEntity<String> response = restTemplate
@@ -155,6 +176,15 @@ class TimeTrackingApplicationTests {
 		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
 	}
 
+	@Test
+	void shouldNotUpdateAStampRecordThatDoesNotExistWithBadRequest() {
+		StampRecord unknownStampRecord = new StampRecord(null, 2L, null, 100L);
+		HttpEntity<StampRecord> request = new HttpEntity<>(unknownStampRecord);
+		ResponseEntity<Void> response = restTemplate.exchange("/stamp-records/2000", HttpMethod.PUT, request,
+				Void.class);
+		assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+	}
+
 	@Test
 	@DirtiesContext
 	void sholdDeleteAnExistingStampRecord() {
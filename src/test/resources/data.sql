@@ -6,4 +6,7 @@ INSERT INTO stamp_record (id, user_id, check_in_in_milliseconds, check_out_in_mi
 INSERT INTO stamp_record (id, user_id, check_in_in_milliseconds, check_out_in_milliseconds) VALUES (1002, 0, 1737529200000, 1737558000000); -- 2025-01-22 08:00-16:00 Uhr
 INSERT INTO stamp_record (id, user_id, check_in_in_milliseconds, check_out_in_milliseconds) VALUES (1003, 0, 1737615600000, 1737644400000); -- 2025-01-23 08:00-16:00 Uhr
 INSERT INTO stamp_record (id, user_id, check_in_in_milliseconds, check_out_in_milliseconds) VALUES (1004, 0, 1737702000000, 1737730800000); -- 2025-01-24 08:00-16:00 Uhr
-INSERT INTO stamp_record (id, user_id, check_in_in_milliseconds, check_out_in_milliseconds) VALUES (1005, 1, 1737788400000, 1737824400000); -- 2025-01-25 08:00-18:00 Uhr
\ No newline at end of file
+INSERT INTO stamp_record (id, user_id, check_in_in_milliseconds, check_out_in_milliseconds) VALUES (1005, 1, 1737788400000, 1737824400000); -- 2025-01-25 08:00-18:00 Uhr
+
+-- The explicit ids above do not advance the identity, so new records start after them
+ALTER TABLE stamp_record ALTER COLUMN id RESTART WITH 1006;